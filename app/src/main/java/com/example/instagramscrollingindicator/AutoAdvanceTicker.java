@@ -0,0 +1,71 @@
+package com.example.instagramscrollingindicator;
+
+import android.view.Choreographer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One frame callback shared by every auto-advancing indicator, instead of a timer each.
+ * The callback is only posted while at least one indicator is registered, and indicators only
+ * stay registered while they can make progress: on screen, not dragged and not finished.
+ *
+ * Must only be used from the main thread.
+ */
+final class AutoAdvanceTicker implements Choreographer.FrameCallback {
+
+    private static AutoAdvanceTicker sInstance;
+
+    private final List<ScrollingPagerIndicator> indicators = new ArrayList<>();
+    private long lastFrameTimeNanos;
+    private boolean posted;
+
+    static AutoAdvanceTicker getInstance() {
+        if (sInstance == null) {
+            sInstance = new AutoAdvanceTicker();
+        }
+        return sInstance;
+    }
+
+    void register(ScrollingPagerIndicator indicator) {
+        if (indicators.contains(indicator)) {
+            return;
+        }
+        indicators.add(indicator);
+        if (!posted) {
+            lastFrameTimeNanos = 0;
+            post();
+        }
+    }
+
+    void unregister(ScrollingPagerIndicator indicator) {
+        indicators.remove(indicator);
+        if (indicators.isEmpty() && posted) {
+            Choreographer.getInstance().removeFrameCallback(this);
+            posted = false;
+        }
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        posted = false;
+        long frameDeltaNanos = lastFrameTimeNanos == 0 ? 0 : frameTimeNanos - lastFrameTimeNanos;
+        lastFrameTimeNanos = frameTimeNanos;
+
+        // Backwards, indicators may unregister themselves while advancing
+        for (int i = indicators.size() - 1; i >= 0; --i) {
+            if (i < indicators.size()) {
+                indicators.get(i).onAutoAdvanceFrame(frameDeltaNanos);
+            }
+        }
+
+        if (!indicators.isEmpty() && !posted) {
+            post();
+        }
+    }
+
+    private void post() {
+        posted = true;
+        Choreographer.getInstance().postFrameCallback(this);
+    }
+}
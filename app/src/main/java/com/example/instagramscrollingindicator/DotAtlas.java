@@ -0,0 +1,178 @@
+package com.example.instagramscrollingindicator;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.RectF;
+
+import androidx.annotation.ColorInt;
+import androidx.annotation.NonNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Bitmap holding every dot an indicator can draw, rasterized once per style.
+ *
+ * Cells, left to right:
+ * | SEL (selected color) | SEL (dot color) | N | M | S |
+ * The extra dot colored SEL-sized cell covers dots shrinking from SEL to N, so a blit never
+ * has to scale a cell up, and serves as the track of {@link #drawProgress}.
+ * Atlases are shared between indicators with equal styles and reference counted;
+ * callers must {@link #release()} what they {@link #obtain} got.
+ *
+ * Must only be used from the main thread.
+ */
+final class DotAtlas {
+
+    private static final int CELL_SELECTED = 0;
+    private static final int CELL_COUNT = 5;
+    /* Transparent border around each cell so filtering doesn't bleed between neighbours */
+    private static final int CELL_PADDING = 1;
+
+    private static final Map<Key, DotAtlas> sCache = new HashMap<>();
+
+    private final Key key;
+    private final Bitmap bitmap;
+    private final Rect[] cellBounds = new Rect[CELL_COUNT];
+    private final float[] cellRadius = new float[CELL_COUNT];
+    private int refCount;
+
+    private DotAtlas(Key key) {
+        this.key = key;
+        float[] radii = key.radii;
+        cellRadius[CELL_SELECTED] = radii[0];
+        System.arraycopy(radii, 0, cellRadius, 1, radii.length);
+
+        int width = 0;
+        int height = 0;
+        for (int i = 0; i < CELL_COUNT; ++i) {
+            int size = (int) Math.ceil(cellRadius[i] * 2) + 2 * CELL_PADDING;
+            cellBounds[i] = new Rect(width, 0, width + size, size);
+            width += size;
+            height = Math.max(height, size);
+        }
+        bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+
+        Canvas canvas = new Canvas(bitmap);
+        Paint paint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        for (int i = 0; i < CELL_COUNT; ++i) {
+            if (cellRadius[i] <= 0) {
+                continue;
+            }
+            paint.setColor(i == CELL_SELECTED ? key.selectedColor : key.dotColor);
+            Rect cell = cellBounds[i];
+            key.shape.draw(canvas, cell.exactCenterX(), cell.exactCenterY(), cellRadius[i], paint);
+        }
+    }
+
+    /**
+     * Returns the shared atlas for a style, rasterizing it if nobody holds it yet
+     */
+    @NonNull
+    static DotAtlas obtain(@NonNull DotShape shape, float selectedRadius, float normalRadius,
+                           float mediumRadius, float smallRadius,
+                           @ColorInt int dotColor, @ColorInt int selectedColor) {
+        Key key = new Key(shape, new float[]{selectedRadius, normalRadius, mediumRadius, smallRadius},
+                dotColor, selectedColor);
+        DotAtlas atlas = sCache.get(key);
+        if (atlas == null) {
+            atlas = new DotAtlas(key);
+            sCache.put(key, atlas);
+        }
+        ++atlas.refCount;
+        return atlas;
+    }
+
+    void release() {
+        if (--refCount == 0) {
+            sCache.remove(key);
+            bitmap.recycle();
+        }
+    }
+
+    /**
+     * Blits a dot. The cell is picked by color and the smallest radius that still covers
+     * {@code radius}, then scaled down to it by the src to dst mapping.
+     *
+     * @param dst    scratch rect, overwritten
+     * @param paint  bitmap paint, should have filtering enabled
+     */
+    void draw(@NonNull Canvas canvas, boolean selected, float cx, float cy, float radius,
+              @NonNull RectF dst, @NonNull Paint paint) {
+        if (radius <= 0) {
+            return;
+        }
+        int cell = CELL_SELECTED;
+        if (!selected) {
+            cell = CELL_SELECTED + 1;
+            while (cell + 1 < CELL_COUNT && cellRadius[cell + 1] >= radius) {
+                ++cell;
+            }
+        }
+        if (cellRadius[cell] <= 0) {
+            return;
+        }
+
+        Rect src = cellBounds[cell];
+        float halfSize = src.width() / 2f * radius / cellRadius[cell];
+        dst.set(cx - halfSize, cy - halfSize, cx + halfSize, cy + halfSize);
+        canvas.drawBitmap(bitmap, src, dst, paint);
+    }
+
+    /**
+     * Blits the selected dot filled up to {@code progress} from the left, over a dot colored track
+     *
+     * @param progress fill in [0, 1]
+     */
+    void drawProgress(@NonNull Canvas canvas, float cx, float cy, float radius, float progress,
+                      @NonNull RectF dst, @NonNull Paint paint) {
+        if (progress >= 1) {
+            draw(canvas, true, cx, cy, radius, dst, paint);
+            return;
+        }
+        draw(canvas, false, cx, cy, radius, dst, paint);
+        if (progress <= 0) {
+            return;
+        }
+        int saveCount = canvas.save();
+        canvas.clipRect(dst.left, dst.top, cx - radius + 2 * radius * progress, dst.bottom);
+        draw(canvas, true, cx, cy, radius, dst, paint);
+        canvas.restoreToCount(saveCount);
+    }
+
+    private static final class Key {
+        final DotShape shape;
+        final float[] radii;
+        final int dotColor;
+        final int selectedColor;
+
+        Key(DotShape shape, float[] radii, int dotColor, int selectedColor) {
+            this.shape = shape;
+            this.radii = radii;
+            this.dotColor = dotColor;
+            this.selectedColor = selectedColor;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return shape.equals(other.shape) && Arrays.equals(radii, other.radii)
+                    && dotColor == other.dotColor && selectedColor == other.selectedColor;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = shape.hashCode();
+            result = 31 * result + Arrays.hashCode(radii);
+            result = 31 * result + dotColor;
+            result = 31 * result + selectedColor;
+            return result;
+        }
+    }
+}
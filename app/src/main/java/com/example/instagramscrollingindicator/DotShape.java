@@ -0,0 +1,140 @@
+package com.example.instagramscrollingindicator;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.PorterDuff;
+import android.graphics.PorterDuffColorFilter;
+import android.graphics.RectF;
+import android.graphics.drawable.Drawable;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Shape of a single dot.
+ *
+ * Shapes are only drawn while rasterizing a {@link DotAtlas}, once per {@link DotType} radius,
+ * so they may use paths or drawables freely. Frames blit the rasterized dots instead.
+ * Two shapes that draw the same pixels must be {@link Object#equals(Object) equal}, so that
+ * indicators with the same style share one atlas.
+ */
+public interface DotShape {
+
+    DotShape CIRCLE = new Circle();
+
+    /**
+     * Draws the dot centered at ({@code cx}, {@code cy})
+     *
+     * @param canvas atlas canvas
+     * @param cx     center x
+     * @param cy     center y
+     * @param radius dot radius
+     * @param paint  anti-aliased fill paint, already set to the dot color
+     */
+    void draw(@NonNull Canvas canvas, float cx, float cy, float radius, @NonNull Paint paint);
+
+    /**
+     * Filled circle, the default shape.
+     */
+    final class Circle implements DotShape {
+
+        private Circle() {
+        }
+
+        @Override
+        public void draw(@NonNull Canvas canvas, float cx, float cy, float radius, @NonNull Paint paint) {
+            canvas.drawCircle(cx, cy, radius, paint);
+        }
+    }
+
+    /**
+     * Circle outline. The stroke never gets wider than the dot radius, so small dots become filled.
+     */
+    final class Ring implements DotShape {
+        private final float strokeWidth;
+
+        public Ring(float strokeWidth) {
+            this.strokeWidth = strokeWidth;
+        }
+
+        @Override
+        public void draw(@NonNull Canvas canvas, float cx, float cy, float radius, @NonNull Paint paint) {
+            float stroke = Math.min(strokeWidth, radius);
+            paint.setStyle(Paint.Style.STROKE);
+            paint.setStrokeWidth(stroke);
+            canvas.drawCircle(cx, cy, radius - stroke / 2, paint);
+            paint.setStyle(Paint.Style.FILL);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Ring && ((Ring) o).strokeWidth == strokeWidth;
+        }
+
+        @Override
+        public int hashCode() {
+            return Float.floatToIntBits(strokeWidth);
+        }
+    }
+
+    /**
+     * Square with rounded corners, inscribed in the dot circle's bounds.
+     */
+    final class RoundedSquare implements DotShape {
+        private final float cornerRatio;
+        private final RectF bounds = new RectF();
+
+        /**
+         * @param cornerRatio corner radius relative to the dot radius, in [0, 1]
+         */
+        public RoundedSquare(float cornerRatio) {
+            this.cornerRatio = Math.max(0, Math.min(1, cornerRatio));
+        }
+
+        @Override
+        public void draw(@NonNull Canvas canvas, float cx, float cy, float radius, @NonNull Paint paint) {
+            bounds.set(cx - radius, cy - radius, cx + radius, cy + radius);
+            float corner = radius * cornerRatio;
+            canvas.drawRoundRect(bounds, corner, corner, paint);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof RoundedSquare && ((RoundedSquare) o).cornerRatio == cornerRatio;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 + Float.floatToIntBits(cornerRatio);
+        }
+    }
+
+    /**
+     * Drawable scaled into the dot bounds and tinted with the dot color.
+     * Icons are compared by drawable instance.
+     */
+    final class Icon implements DotShape {
+        private final Drawable drawable;
+
+        public Icon(@NonNull Drawable drawable) {
+            this.drawable = drawable.mutate();
+        }
+
+        @Override
+        public void draw(@NonNull Canvas canvas, float cx, float cy, float radius, @NonNull Paint paint) {
+            drawable.setBounds(Math.round(cx - radius), Math.round(cy - radius),
+                    Math.round(cx + radius), Math.round(cy + radius));
+            drawable.setColorFilter(new PorterDuffColorFilter(paint.getColor(), PorterDuff.Mode.SRC_IN));
+            drawable.draw(canvas);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Icon && ((Icon) o).drawable == drawable;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(drawable);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.instagramscrollingindicator;
+
+import android.animation.TimeInterpolator;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Geometry of all dots as a function of time.
+ *
+ * Every dot owns a fixed slot. A transition goes from the previous window (where the dots were
+ * when it started) to the target window, and {@link #evaluate(float, int)} writes the geometry at
+ * time t into preallocated arrays. The result only depends on both windows and t, so a frame
+ * can be rendered at any t in any order, which makes seeking, pausing and reversing free.
+ *
+ * Alternatively {@link #step(float, int)} moves the dots towards the target window with a damped
+ * spring. Velocities survive retargeting, so a swipe arriving mid-motion bends the motion
+ * instead of restarting it.
+ *
+ * Uses no Android implementation classes, so it can be driven and checked on a plain JVM.
+ */
+final class DotTimeline {
+
+    /* Largest integration step, stiffer or more damped springs take smaller ones to stay stable */
+    private static final float MAX_STEP = 1f / 240;
+    /* A dot is settled once it is closer than this to its target, in px, and slower than this, in px/s */
+    private static final float SETTLE_DISTANCE = 0.01f;
+    private static final float SETTLE_VELOCITY = 0.5f;
+
+    private final float[] fromX;
+    private final float[] fromRadius;
+    private final float[] toX;
+    private final float[] toRadius;
+    private final float[] x;
+    private final float[] radius;
+    private final float[] velocityX;
+    private final float[] velocityRadius;
+
+    private float stiffness;
+    private float damping;
+    private float maxStep;
+
+    /* Same curve as AccelerateDecelerateInterpolator, which is only a stub on the JVM */
+    static final TimeInterpolator EASE_IN_OUT = t -> (float) (Math.cos((t + 1) * Math.PI) / 2 + 0.5);
+
+    @NonNull
+    private TimeInterpolator interpolator = EASE_IN_OUT;
+    private float fraction = 1;
+
+    DotTimeline(int capacity) {
+        fromX = new float[capacity];
+        fromRadius = new float[capacity];
+        toX = new float[capacity];
+        toRadius = new float[capacity];
+        x = new float[capacity];
+        radius = new float[capacity];
+        velocityX = new float[capacity];
+        velocityRadius = new float[capacity];
+        setSpring(600, 0.85f);
+    }
+
+    void setInterpolator(@NonNull TimeInterpolator interpolator) {
+        this.interpolator = interpolator;
+    }
+
+    @NonNull
+    TimeInterpolator getInterpolator() {
+        return interpolator;
+    }
+
+    /**
+     * @param stiffness    spring constant for a unit mass
+     * @param dampingRatio 1 for critical damping, lower values overshoot
+     */
+    void setSpring(float stiffness, float dampingRatio) {
+        this.stiffness = stiffness;
+        this.damping = 2 * dampingRatio * (float) Math.sqrt(stiffness);
+        // Semi-implicit Euler is stable while h * damping < 2 and h^2 * stiffness + 2 * h * damping < 4,
+        // this keeps both well inside whatever the spring
+        this.maxStep = Math.min(MAX_STEP, 1 / (damping + (float) Math.sqrt(stiffness)));
+    }
+
+    /**
+     * Moves a dot without animation, in both windows
+     */
+    void snap(int slot, float centerX, float r) {
+        fromX[slot] = toX[slot] = x[slot] = centerX;
+        fromRadius[slot] = toRadius[slot] = radius[slot] = r;
+        velocityX[slot] = velocityRadius[slot] = 0;
+    }
+
+    /**
+     * Resizes a dot without animation, keeping its motion along x
+     */
+    void snapRadius(int slot, float r) {
+        fromRadius[slot] = toRadius[slot] = radius[slot] = r;
+        velocityRadius[slot] = 0;
+    }
+
+    /**
+     * Jumps every dot to the target window
+     *
+     * @param count number of slots in use
+     */
+    void finish(int count) {
+        for (int i = 0; i < count; ++i) {
+            snap(i, toX[i], toRadius[i]);
+        }
+        fraction = 1;
+    }
+
+    /**
+     * Sets where a dot ends up in the target window. Takes effect on {@link #restart(int)}.
+     */
+    void setTarget(int slot, float centerX, float r) {
+        toX[slot] = centerX;
+        toRadius[slot] = r;
+    }
+
+    float getTargetX(int slot) {
+        return toX[slot];
+    }
+
+    /**
+     * Starts a new transition from the geometry currently displayed to the target window
+     *
+     * @param count number of slots in use
+     */
+    void restart(int count) {
+        System.arraycopy(x, 0, fromX, 0, count);
+        System.arraycopy(radius, 0, fromRadius, 0, count);
+        fraction = 0;
+    }
+
+    /**
+     * Evaluates the geometry of every slot at time {@code t}
+     *
+     * @param t     linear time of the transition in [0, 1]
+     * @param count number of slots in use
+     */
+    void evaluate(float t, int count) {
+        fraction = Math.max(0, Math.min(1, t));
+        float f = interpolator.getInterpolation(fraction);
+        for (int i = 0; i < count; ++i) {
+            x[i] = fromX[i] + (toX[i] - fromX[i]) * f;
+            radius[i] = fromRadius[i] + (toRadius[i] - fromRadius[i]) * f;
+        }
+    }
+
+    /**
+     * Advances the spring motion of every slot towards the target window. Dots that come to
+     * rest are snapped exactly onto their target, so the final geometry is deterministic.
+     *
+     * @param dt    elapsed time in seconds
+     * @param count number of slots in use
+     * @return true once every dot is at rest
+     */
+    boolean step(float dt, int count) {
+        int steps = Math.max(1, (int) Math.ceil(dt / maxStep));
+        float h = dt / steps;
+        for (int n = 0; n < steps; ++n) {
+            for (int i = 0; i < count; ++i) {
+                // Semi-implicit Euler, unit mass
+                velocityX[i] += (stiffness * (toX[i] - x[i]) - damping * velocityX[i]) * h;
+                x[i] += velocityX[i] * h;
+                velocityRadius[i] += (stiffness * (toRadius[i] - radius[i]) - damping * velocityRadius[i]) * h;
+                radius[i] = Math.max(0, radius[i] + velocityRadius[i] * h);
+            }
+        }
+
+        boolean settled = true;
+        for (int i = 0; i < count; ++i) {
+            if (Math.abs(toX[i] - x[i]) < SETTLE_DISTANCE && Math.abs(velocityX[i]) < SETTLE_VELOCITY
+                    && Math.abs(toRadius[i] - radius[i]) < SETTLE_DISTANCE && Math.abs(velocityRadius[i]) < SETTLE_VELOCITY) {
+                snap(i, toX[i], toRadius[i]);
+            } else {
+                settled = false;
+            }
+        }
+        if (settled) {
+            fraction = 1;
+        }
+        return settled;
+    }
+
+    /**
+     * @return linear time of the last evaluation
+     */
+    float getFraction() {
+        return fraction;
+    }
+
+    float getX(int slot) {
+        return x[slot];
+    }
+
+    float getRadius(int slot) {
+        return radius[slot];
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.instagramscrollingindicator;
+
+import androidx.annotation.NonNull;
+import androidx.viewpager.widget.ViewPager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Several indicators showing the position of one pager.
+ *
+ * Only the driver is attached to the pager: it registers the listeners, runs the dot state
+ * machine once per page change and owns the animation clock. The other members just render
+ * the driver's dots, with their own colors and shape, scaled by the ratio of their normal dot
+ * radius to the driver's. Their other dot radii and their dot spacing must be scaled by the same
+ * ratio. The padding around the dots is the driver's, scaled too.
+ *
+ * Animation and auto-advance settings only apply to the driver. Auto-advance keeps going while
+ * any member is on screen, even if the driver isn't attached to a window.
+ */
+public class IndicatorGroup {
+
+    private final ScrollingPagerIndicator driver;
+    private final List<ScrollingPagerIndicator> members = new ArrayList<>();
+
+    /**
+     * @param driver  indicator attached to the pager
+     * @param members indicators rendering the driver's dots
+     * @throws IllegalArgumentException if a member is already grouped, listed twice, or its dot
+     *                                  radii or spacing aren't proportional to the driver's.
+     *                                  No indicator is changed in that case.
+     */
+    public IndicatorGroup(@NonNull ScrollingPagerIndicator driver, @NonNull ScrollingPagerIndicator... members) {
+        this.driver = driver;
+        for (int i = 0; i < members.length; ++i) {
+            driver.checkMirror(members[i]);
+            for (int j = 0; j < i; ++j) {
+                if (members[j] == members[i]) {
+                    throw new IllegalArgumentException("Indicator listed twice");
+                }
+            }
+        }
+        for (ScrollingPagerIndicator member : members) {
+            addIndicator(member);
+        }
+    }
+
+    /**
+     * @return the indicator running the dot state machine for the whole group
+     */
+    @NonNull
+    public ScrollingPagerIndicator getDriver() {
+        return driver;
+    }
+
+    /**
+     * Adds an indicator rendering the driver's dots. It is detached from its own pager.
+     *
+     * @param indicator indicator to add
+     * @throws IllegalArgumentException if it is already grouped or its dot radii or spacing
+     *                                  aren't proportional to the driver's
+     */
+    public void addIndicator(@NonNull ScrollingPagerIndicator indicator) {
+        driver.addMirror(indicator);
+        members.add(indicator);
+    }
+
+    /**
+     * Removes an indicator from the group. If it was attached to a pager before joining, it is
+     * attached to that pager again and goes back to rendering its own dots; otherwise it shows
+     * no dots until you attach it.
+     *
+     * @param indicator indicator to remove
+     */
+    public void removeIndicator(@NonNull ScrollingPagerIndicator indicator) {
+        driver.removeMirror(indicator);
+        members.remove(indicator);
+    }
+
+    /**
+     * Attaches the group to ViewPager
+     *
+     * @param pager pager to attach
+     */
+    public void attachToPager(@NonNull ViewPager pager) {
+        driver.attachToPager(pager);
+    }
+
+    /**
+     * Attaches the group to any custom pager
+     *
+     * @param pager    pager to attach
+     * @param attacher helper which should setup the driver to work with custom pager
+     */
+    public <T> void attachToPager(@NonNull T pager, @NonNull ScrollingPagerIndicator.PagerAttacher<T> attacher) {
+        driver.attachToPager(pager, attacher);
+    }
+
+    /**
+     * Detaches the group from pager
+     */
+    public void detachFromPager() {
+        driver.detachFromPager();
+    }
+
+    /**
+     * Detaches the group from pager and removes every member
+     */
+    public void release() {
+        detachFromPager();
+        for (int i = members.size() - 1; i >= 0; --i) {
+            removeIndicator(members.get(i));
+        }
+    }
+}
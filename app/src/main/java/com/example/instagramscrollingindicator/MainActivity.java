@@ -17,7 +17,10 @@ public class MainActivity extends AppCompatActivity {
         DemoPagerAdapter pagerAdapter = new DemoPagerAdapter(10);
         pager.setAdapter(pagerAdapter);
 
+        // Both indicators show the pager position, driven by a single state machine
         ScrollingPagerIndicator pagerIndicator = findViewById(R.id.pager_indicator);
-        pagerIndicator.attachToPager(pager);
+        ScrollingPagerIndicator bottomIndicator = findViewById(R.id.pager_indicator_bottom);
+        IndicatorGroup indicatorGroup = new IndicatorGroup(pagerIndicator, bottomIndicator);
+        indicatorGroup.attachToPager(pager);
     }
 }
\ No newline at end of file
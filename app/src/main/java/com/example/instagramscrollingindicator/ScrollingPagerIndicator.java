@@ -1,13 +1,19 @@
 package com.example.instagramscrollingindicator;
 
+import android.animation.TimeAnimator;
+import android.animation.TimeInterpolator;
 import android.animation.ValueAnimator;
 import android.content.Context;
 import android.content.res.TypedArray;
 import android.graphics.Canvas;
 import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.RectF;
 import android.util.AttributeSet;
 import android.util.Log;
 import android.view.View;
+import android.view.ViewTreeObserver;
+import android.view.animation.LinearInterpolator;
 
 import androidx.annotation.ColorInt;
 import androidx.annotation.NonNull;
@@ -56,16 +62,47 @@ public class ScrollingPagerIndicator extends View {
     private List<DotHolder> mDotHolders = new ArrayList<>(0);
     private boolean dotCountInitialized;
 
+    /* Geometry of every dot, and the single clock driving it */
+    private final DotTimeline mTimeline = new DotTimeline(MAX_NUMBER_OF_DOTS + 1);
+    private final ValueAnimator mClock;
+    /* Steps the timeline's spring once per frame instead of mClock, when enabled */
+    private final TimeAnimator mSpringClock;
+    private boolean mSpringEnabled;
+
     private final Paint paint;
+    private final RectF mDotBounds = new RectF();
 
     @ColorInt
     private int mDotColor;
     @ColorInt
     private int mSelectedDotColor;
+    private DotShape mDotShape;
+    /* Lazily obtained on draw while attached, released when the style changes or the view is detached */
+    private DotAtlas mDotAtlas;
 
     private Runnable attachRunnable;
     private PagerAttacher<?> currentAttacher;
 
+    /* Auto-advance, off while the page duration is 0 */
+    private long mAutoAdvanceDurationNanos;
+    private boolean mAutoAdvanceLoop;
+    private float mAutoAdvanceProgress;
+    private boolean mUserInteracting;
+    private final Rect mVisibleRect = new Rect();
+    /* Whether registered with AutoAdvanceTicker, only while progress can be made */
+    private boolean mTicking;
+    /* Scrolling may bring the indicator back on screen */
+    private final ViewTreeObserver.OnScrollChangedListener mScrollChangedListener = this::updateAutoAdvanceTicking;
+    private boolean mScrollListenerAdded;
+    /* isAttachedToWindow() is still true during onDetachedFromWindow() */
+    private boolean mWindowAttached;
+
+    /* Set when this indicator only renders the dots of another one, see IndicatorGroup */
+    private ScrollingPagerIndicator mSource;
+    private final List<ScrollingPagerIndicator> mMirrors = new ArrayList<>(0);
+    /* Attachment a mirror had before joining a group, restored when it leaves */
+    private Runnable mAttachBeforeMirroring;
+
     public ScrollingPagerIndicator(Context context) {
         this(context, null);
     }
@@ -105,10 +142,38 @@ public class ScrollingPagerIndicator extends View {
         mSpacing = (int) (8 * context.getResources().getDisplayMetrics().density);
         spaceBetweenDotCenters = (int) (attributes.getDimensionPixelSize(R.styleable.ScrollingPagerIndicator_spi_dotSpacing, 0) + mDotNormalRadius);
         minVisibleDotCount = attributes.getInt(R.styleable.ScrollingPagerIndicator_spi_minVisibleDotCount, 2);
+
+        int dotShape = attributes.getInt(R.styleable.ScrollingPagerIndicator_spi_dotShape, 0);
+        if (dotShape == 1) {
+            float defaultStroke = context.getResources().getDisplayMetrics().density;
+            mDotShape = new DotShape.Ring(attributes.getDimension(R.styleable.ScrollingPagerIndicator_spi_dotStrokeWidth, defaultStroke));
+        } else if (dotShape == 2) {
+            mDotShape = new DotShape.RoundedSquare(attributes.getFloat(R.styleable.ScrollingPagerIndicator_spi_dotCornerRatio, 0.5f));
+        } else {
+            mDotShape = DotShape.CIRCLE;
+        }
         attributes.recycle();
 
-        paint = new Paint();
-        paint.setAntiAlias(true);
+        paint = new Paint(Paint.ANTI_ALIAS_FLAG | Paint.FILTER_BITMAP_FLAG);
+
+        // The clock runs linearly, easing is applied by the timeline
+        mClock = ValueAnimator.ofFloat(0f, 1f);
+        mClock.setDuration(200);
+        mClock.setInterpolator(new LinearInterpolator());
+        mClock.addUpdateListener(animation -> {
+            mTimeline.evaluate((float) animation.getAnimatedValue(), mDotHolders.size());
+            invalidateDots();
+        });
+
+        mSpringClock = new TimeAnimator();
+        mSpringClock.setTimeListener((animation, totalTime, deltaTime) -> {
+            // Don't let a long stall turn into a huge step
+            float dt = Math.min(deltaTime, 100) / 1000f;
+            if (mTimeline.step(dt, mDotHolders.size())) {
+                mSpringClock.end();
+            }
+            invalidateDots();
+        });
 
         if (isInEditMode()) {
             setDotCount(7);
@@ -117,20 +182,78 @@ public class ScrollingPagerIndicator extends View {
 
     @Override
     protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
-        setMeasuredDimension(preMeasureWidth, preMeasureHeight);
+        if (mSource != null) {
+            float scale = getMirrorScale();
+            setMeasuredDimension((int) Math.ceil(mSource.preMeasureWidth * scale),
+                    (int) Math.ceil(mSource.preMeasureHeight * scale));
+        } else {
+            setMeasuredDimension(preMeasureWidth, preMeasureHeight);
+        }
     }
 
     @Override
     protected void onDraw(Canvas canvas) {
-        for (int i = 0; i < mDotHolders.size(); ++i) {
-            DotHolder dotHolder = mDotHolders.get(i);
-            if (dotHolder.type == DotType.SELECTED) {
-                paint.setColor(mSelectedDotColor);
+        // A detached view (e.g. drawn into a snapshot) borrows the atlas for this draw only,
+        // nothing would release it otherwise
+        boolean attached = isAttachedToWindow();
+        DotAtlas atlas = mDotAtlas;
+        if (atlas == null) {
+            atlas = DotAtlas.obtain(mDotShape, mDotSelectedRadius, mDotNormalRadius,
+                    mDotMediumRadius, mDotSmallRadius, mDotColor, mSelectedDotColor);
+            if (attached) {
+                mDotAtlas = atlas;
+            }
+        }
+        ScrollingPagerIndicator source = mSource != null ? mSource : this;
+        float scale = mSource != null ? getMirrorScale() : 1;
+        List<DotHolder> dotHolders = source.mDotHolders;
+        for (int i = 0; i < dotHolders.size(); ++i) {
+            DotHolder dotHolder = dotHolders.get(i);
+            float centerX = dotHolder.centerX() * scale;
+            float centerY = dotHolder.centerY * scale;
+            float radius = dotHolder.radius() * scale;
+            if (dotHolder.type == DotType.SELECTED && source.isAutoAdvancing()) {
+                atlas.drawProgress(canvas, centerX, centerY, radius,
+                        source.mAutoAdvanceProgress, mDotBounds, paint);
             } else {
-                paint.setColor(mDotColor);
+                atlas.draw(canvas, dotHolder.type == DotType.SELECTED,
+                        centerX, centerY, radius, mDotBounds, paint);
             }
-            canvas.drawCircle(dotHolder.centerX, dotHolder.centerY, dotHolder.radius, paint);
         }
+        if (!attached) {
+            atlas.release();
+        }
+    }
+
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+        mWindowAttached = true;
+        updateScrollListener();
+        updateAutoAdvanceTicking();
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        mWindowAttached = false;
+        updateScrollListener();
+        // A group keeps advancing while any of its members is on screen
+        updateAutoAdvanceTicking();
+        endAnimation();
+        releaseDotAtlas();
+    }
+
+    @Override
+    protected void onVisibilityChanged(@NonNull View changedView, int visibility) {
+        super.onVisibilityChanged(changedView, visibility);
+        updateAutoAdvanceTicking();
+    }
+
+    @Override
+    protected void onWindowVisibilityChanged(int visibility) {
+        super.onWindowVisibilityChanged(visibility);
+        updateAutoAdvanceTicking();
     }
 
     /**
@@ -148,6 +271,7 @@ public class ScrollingPagerIndicator extends View {
      */
     public void setDotColor(@ColorInt int color) {
         mDotColor = color;
+        releaseDotAtlas();
         invalidate();
     }
 
@@ -166,9 +290,266 @@ public class ScrollingPagerIndicator extends View {
      */
     public void setSelectedDotColor(@ColorInt int color) {
         mSelectedDotColor = color;
+        releaseDotAtlas();
+        invalidate();
+    }
+
+    /**
+     * @return the dot shape
+     */
+    @NonNull
+    public DotShape getDotShape() {
+        return mDotShape;
+    }
+
+    /**
+     * Sets dot shape. The shape is rasterized once per dot size and shared with every
+     * indicator using the same shape, sizes and colors.
+     *
+     * @param shape dot shape
+     */
+    public void setDotShape(@NonNull DotShape shape) {
+        mDotShape = shape;
+        releaseDotAtlas();
         invalidate();
     }
 
+    /**
+     * @return duration of the dot transition in milliseconds
+     */
+    public long getAnimationDuration() {
+        return mClock.getDuration();
+    }
+
+    /**
+     * Sets duration of the dot transition
+     *
+     * @param duration duration in milliseconds
+     */
+    public void setAnimationDuration(long duration) {
+        mClock.setDuration(duration);
+    }
+
+    /**
+     * @return easing of the dot transition
+     */
+    @NonNull
+    public TimeInterpolator getAnimationInterpolator() {
+        return mTimeline.getInterpolator();
+    }
+
+    /**
+     * Sets easing of the dot transition
+     *
+     * @param interpolator easing
+     */
+    public void setAnimationInterpolator(@NonNull TimeInterpolator interpolator) {
+        mTimeline.setInterpolator(interpolator);
+        if (!mSpringEnabled) {
+            mTimeline.evaluate(mTimeline.getFraction(), mDotHolders.size());
+            invalidateDots();
+        }
+    }
+
+    /**
+     * @return whether dots move with spring physics
+     */
+    public boolean isSpringAnimationEnabled() {
+        return mSpringEnabled;
+    }
+
+    /**
+     * Makes dots move with spring physics instead of a fixed duration transition.
+     * A swipe arriving mid-motion retargets the dots and keeps their velocity.
+     * The time based controls ({@link #setAnimationFraction(float)}, {@link #getAnimationFraction()},
+     * {@link #pauseAnimation()}, {@link #resumeAnimation()} and {@link #reverseAnimation()})
+     * throw while it is enabled.
+     *
+     * @param enabled whether to use spring physics
+     */
+    public void setSpringAnimationEnabled(boolean enabled) {
+        if (mSpringEnabled != enabled) {
+            endAnimation();
+            mSpringEnabled = enabled;
+        }
+    }
+
+    /**
+     * Sets the spring used when {@link #setSpringAnimationEnabled(boolean) spring motion} is on
+     *
+     * @param stiffness    spring stiffness, higher settles faster but costs more integration steps
+     * @param dampingRatio 1 for no overshoot, lower values bounce
+     */
+    public void setSpring(float stiffness, float dampingRatio) {
+        if (stiffness <= 0 || dampingRatio <= 0) {
+            throw new IllegalArgumentException("stiffness and dampingRatio must be positive");
+        }
+        mTimeline.setSpring(stiffness, dampingRatio);
+    }
+
+    /**
+     * Jumps the dots to the end of the running motion
+     */
+    public void endAnimation() {
+        mClock.cancel();
+        mSpringClock.end();
+        mTimeline.finish(mDotHolders.size());
+        invalidateDots();
+    }
+
+    /**
+     * Stops the running dot transition and shows it at the given time.
+     * Call {@link #resumeAnimation()} to play on from there.
+     *
+     * @param fraction time of the transition in [0, 1]
+     * @throws IllegalStateException if spring motion is enabled
+     */
+    public void setAnimationFraction(float fraction) {
+        checkTimedAnimation();
+        mClock.cancel();
+        mTimeline.evaluate(fraction, mDotHolders.size());
+        invalidateDots();
+    }
+
+    /**
+     * @return time of the current dot transition in [0, 1]
+     * @throws IllegalStateException if spring motion is enabled
+     */
+    public float getAnimationFraction() {
+        checkTimedAnimation();
+        return mTimeline.getFraction();
+    }
+
+    /**
+     * Pauses the running dot transition
+     *
+     * @throws IllegalStateException if spring motion is enabled
+     */
+    public void pauseAnimation() {
+        checkTimedAnimation();
+        mClock.pause();
+    }
+
+    /**
+     * Plays the current dot transition on from where it was paused or seeked to
+     *
+     * @throws IllegalStateException if spring motion is enabled
+     */
+    public void resumeAnimation() {
+        checkTimedAnimation();
+        if (mClock.isPaused()) {
+            mClock.resume();
+        } else if (!mClock.isRunning() && mTimeline.getFraction() < 1) {
+            // Seek first, starting would evaluate t = 0 before the seek
+            mClock.setCurrentPlayTime(getTimelinePlayTime());
+            mClock.start();
+        }
+    }
+
+    /**
+     * Plays the current dot transition backwards from where it is, paused or not
+     *
+     * @throws IllegalStateException if spring motion is enabled
+     */
+    public void reverseAnimation() {
+        checkTimedAnimation();
+        if (mClock.isStarted() && !mClock.isPaused()) {
+            mClock.reverse();
+            return;
+        }
+        // A paused clock would reverse from wall clock time and stay paused,
+        // so restart it from where the dots are instead
+        long playTime = getTimelinePlayTime();
+        mClock.cancel();
+        if (playTime <= 0) {
+            // Already at the start, and reversing from 0 would play the whole transition
+            return;
+        }
+        mClock.setCurrentPlayTime(playTime);
+        mClock.reverse();
+    }
+
+    /**
+     * @return play time of mClock matching the displayed time of the timeline
+     */
+    private long getTimelinePlayTime() {
+        return (long) (mTimeline.getFraction() * mClock.getDuration());
+    }
+
+    /**
+     * Spring motion has no timeline to seek in, and must not share the arrays with mClock
+     */
+    private void checkTimedAnimation() {
+        if (mSpringEnabled) {
+            throw new IllegalStateException("Time based animation controls don't apply to spring motion");
+        }
+    }
+
+    /**
+     * Starts advancing the pager story-style: the selected dot fills up over {@code pageDuration}
+     * and then the next page is selected through the attacher. All auto-advancing indicators
+     * share one frame callback. Progress pauses while the indicator isn't visible on screen and
+     * while the user drags the pager, and the indicator stops ticking meanwhile. To also pause
+     * while the user just holds a page, call {@link #setUserInteracting(boolean)} from your own
+     * touch handling.
+     *
+     * @param pageDuration time spent on each page in milliseconds
+     * @param loop         whether to go back to the first page after the last one
+     * @throws IllegalStateException if the indicator isn't attached through a {@link PagerAttacher}
+     *                               that {@link PagerAttacher#canSelectPages() can select pages}
+     */
+    public void startAutoAdvance(long pageDuration, boolean loop) {
+        if (pageDuration <= 0) {
+            throw new IllegalArgumentException("pageDuration must be positive");
+        }
+        if (currentAttacher == null || !currentAttacher.canSelectPages()) {
+            throw new IllegalStateException("Attach to a pager whose attacher can select pages first");
+        }
+        mAutoAdvanceDurationNanos = pageDuration * 1_000_000L;
+        mAutoAdvanceLoop = loop;
+        mAutoAdvanceProgress = 0;
+        updateScrollListeners();
+        updateAutoAdvanceTicking();
+        invalidateDots();
+    }
+
+    /**
+     * Stops advancing the pager
+     */
+    public void stopAutoAdvance() {
+        mAutoAdvanceDurationNanos = 0;
+        mAutoAdvanceProgress = 0;
+        updateScrollListeners();
+        updateAutoAdvanceTicking();
+        invalidateDots();
+    }
+
+    /**
+     * @return whether the indicator advances the pager
+     */
+    public boolean isAutoAdvancing() {
+        return mAutoAdvanceDurationNanos > 0;
+    }
+
+    /**
+     * Pauses auto-advance while the user interacts with the pager.
+     * {@link PagerAttacher}s call it when the user starts and stops dragging; the pager doesn't
+     * report a press that doesn't move past touch slop, so call it yourself for press-and-hold.
+     *
+     * @param interacting whether the user is dragging or holding the pager
+     */
+    public void setUserInteracting(boolean interacting) {
+        mUserInteracting = interacting;
+        updateAutoAdvanceTicking();
+    }
+
+    /**
+     * @return index of the selected dot among the dots drawn
+     */
+    int getSelectedDotIndex() {
+        return mSelectedDotIndex;
+    }
+
     /**
      * Sets dot count
      *
@@ -194,6 +575,9 @@ public class ScrollingPagerIndicator extends View {
      * @param attacher helper which should setup this indicator to work with custom pager
      */
     public <T> void attachToPager(@NonNull final T pager, @NonNull final PagerAttacher<T> attacher) {
+        if (mSource != null) {
+            throw new IllegalStateException("Indicator is a member of an IndicatorGroup, attach the group instead");
+        }
         detachFromPager();
         attacher.attachToPager(this, pager);
         currentAttacher = attacher;
@@ -202,6 +586,13 @@ public class ScrollingPagerIndicator extends View {
             mItemCount = -1;
             attachToPager(pager, attacher);
         };
+
+        if (isAutoAdvancing() && !attacher.canSelectPages()) {
+            Log.w("ScrollingPagerIndicator", "Attacher can't select pages, stopping auto-advance");
+            stopAutoAdvance();
+        } else {
+            updateAutoAdvanceTicking();
+        }
     }
 
     /**
@@ -214,6 +605,9 @@ public class ScrollingPagerIndicator extends View {
             attachRunnable = null;
         }
         dotCountInitialized = false;
+        // The attacher won't report the end of a drag anymore
+        mUserInteracting = false;
+        updateAutoAdvanceTicking();
     }
 
     /**
@@ -223,7 +617,7 @@ public class ScrollingPagerIndicator extends View {
     public void reattach() {
         if (attachRunnable != null) {
             attachRunnable.run();
-            invalidate();
+            invalidateDots();
         }
     }
 
@@ -239,10 +633,47 @@ public class ScrollingPagerIndicator extends View {
         }
         if (mPageIndex == page)
             return;
+        mAutoAdvanceProgress = 0;
+        updateAutoAdvanceTicking();
+
+        if (Math.abs(page - mPageIndex) > 1) {
+            jumpToPage(page);
+        } else {
+            boolean isSwipeToLeft = page > mPageIndex;
+            mPageIndex = page;
+            moveSelection(isSwipeToLeft, true);
+        }
+        invalidateDots();
+    }
+
+    /**
+     * Rebuilds the dots for a jump of several pages, e.g. a loop back to the first page.
+     * The state machine only steps one page at a time, so walk it there from the first page
+     * and show the result without animating.
+     */
+    private void jumpToPage(int page) {
+        dotCountInitialized = false;
+        initDots(mItemCount);
+        if (!dotCountInitialized) {
+            // Too few pages to show dots
+            mPageIndex = page;
+            return;
+        }
+        while (mPageIndex < page) {
+            ++mPageIndex;
+            moveSelection(true, false);
+        }
+        mTimeline.finish(mDotHolders.size());
+    }
 
-        boolean isSwipeToLeft = page > mPageIndex;
+    /**
+     * Moves the selected dot one page, the page index must already be updated
+     *
+     * @param isSwipeToLeft whether the new page follows the previous one
+     * @param animate       whether to start a transition, otherwise only the targets are updated
+     */
+    private void moveSelection(boolean isSwipeToLeft, boolean animate) {
         boolean shouldTranslate = false;
-        mPageIndex = page;
         int newDotIndex = isSwipeToLeft ? mSelectedDotIndex + 1 : mSelectedDotIndex - 1;
 
         // If number of item >= maxDotNumber, we have a dot type NO at either end of list
@@ -260,7 +691,7 @@ public class ScrollingPagerIndicator extends View {
 
                 mDotHolders.remove(0);
                 DotHolder lastHolder = mDotHolders.get(mDotHolders.size() - 1);
-                holder.centerX = lastHolder.centerX + spaceBetweenDotCenters;
+                mTimeline.snap(holder.slot, mTimeline.getTargetX(lastHolder.slot) + spaceBetweenDotCenters, holder.radius());
                 mDotHolders.add(holder);
             }
         } else {
@@ -273,7 +704,7 @@ public class ScrollingPagerIndicator extends View {
 
                 mDotHolders.remove(mDotHolders.size() - 1);
                 DotHolder firstHolder = mDotHolders.get(0);
-                holder.centerX = firstHolder.centerX - spaceBetweenDotCenters;
+                mTimeline.snap(holder.slot, mTimeline.getTargetX(firstHolder.slot) - spaceBetweenDotCenters, holder.radius());
                 mDotHolders.add(0, holder);
             }
         }
@@ -437,23 +868,24 @@ public class ScrollingPagerIndicator extends View {
                     updateDotType(holder, newType, false);
                 }
             }
+            if (animate) {
+                startTransition();
+            }
         } else {
             for (int i = 0; i < mDotHolders.size(); ++i) {
                 DotHolder holder = mDotHolders.get(i);
 
                 if (i == mSelectedDotIndex) {
                     holder.type = DotType.SELECTED;
-                    holder.radius = mDotSelectedRadius;
+                    mTimeline.snapRadius(holder.slot, mDotSelectedRadius);
                 } else {
                     if (holder.type == DotType.SELECTED) {
                         holder.type = DotType.NORMAL;
-                        holder.radius = mDotNormalRadius;
+                        mTimeline.snapRadius(holder.slot, mDotNormalRadius);
                     }
                 }
             }
         }
-
-        invalidate();
     }
 
     private void initDots (int itemCount) {
@@ -463,7 +895,11 @@ public class ScrollingPagerIndicator extends View {
         if (itemCount < minVisibleDotCount)
             return;
 
+        mClock.cancel();
+        mSpringClock.end();
         mSelectedDotIndex = 0;
+        // The new dots show the first page
+        mPageIndex = 0;
         mItemCount = itemCount;
         mDotHolders = new ArrayList<>(itemCount);
         dotCountInitialized = true;
@@ -511,24 +947,238 @@ public class ScrollingPagerIndicator extends View {
                 radius = 0;
                 type = DotType.NONE;
             }
-            mDotHolders.add(new DotHolder(centerX, preMeasureHeight * 1f / 2, radius, type));
+            mDotHolders.add(new DotHolder(i, centerX, preMeasureHeight * 1f / 2, radius, type));
             centerX += spaceBetweenDotCenters;
         }
 
         requestLayout();
+        for (int i = 0; i < mMirrors.size(); ++i) {
+            mMirrors.get(i).requestLayout();
+        }
+        invalidateDots();
+    }
+
+    /**
+     * Called by {@link AutoAdvanceTicker} on every frame while auto-advancing
+     *
+     * @param frameDeltaNanos time since the previous frame
+     */
+    void onAutoAdvanceFrame(long frameDeltaNanos) {
+        if (!canAutoAdvance()) {
+            updateAutoAdvanceTicking();
+            return;
+        }
+        mAutoAdvanceProgress = Math.min(1, mAutoAdvanceProgress + frameDeltaNanos * 1f / mAutoAdvanceDurationNanos);
+        invalidateDots();
+        if (mAutoAdvanceProgress < 1) {
+            return;
+        }
+
+        int nextPage = mPageIndex + 1;
+        if (nextPage < mItemCount) {
+            currentAttacher.selectPage(nextPage);
+        } else if (mAutoAdvanceLoop) {
+            // onPageSettled() rebuilds the dots for the jump back once the pager reports it
+            currentAttacher.selectPage(0);
+        } else {
+            // Finished the last page, stop ticking until the page changes
+            updateAutoAdvanceTicking();
+            return;
+        }
+        // A pager may ignore the request, e.g. during first layout or an adapter change.
+        // Start the page over to retry instead of stalling at full progress.
+        mAutoAdvanceProgress = 0;
+    }
+
+    private boolean canAutoAdvance() {
+        if (!isAutoAdvancing() || mUserInteracting
+                || currentAttacher == null || mItemCount <= 1) {
+            return false;
+        }
+        if (mAutoAdvanceProgress >= 1 && !mAutoAdvanceLoop && mPageIndex >= mItemCount - 1) {
+            return false;
+        }
+        return isDotWindowOnScreen();
+    }
+
+    /**
+     * Registers with the shared frame callback while progress can be made, unregisters otherwise.
+     * Mirrors forward to the indicator they render.
+     */
+    private void updateAutoAdvanceTicking() {
+        if (mSource != null) {
+            mSource.updateAutoAdvanceTicking();
+            return;
+        }
+        boolean ticking = canAutoAdvance();
+        if (ticking == mTicking) {
+            return;
+        }
+        mTicking = ticking;
+        if (ticking) {
+            AutoAdvanceTicker.getInstance().register(this);
+        } else {
+            AutoAdvanceTicker.getInstance().unregister(this);
+        }
+    }
+
+    /**
+     * Listens to scrolling while the indicator it renders auto-advances
+     */
+    private void updateScrollListener() {
+        ScrollingPagerIndicator source = mSource != null ? mSource : this;
+        boolean listen = source.isAutoAdvancing() && mWindowAttached;
+        if (listen != mScrollListenerAdded) {
+            mScrollListenerAdded = listen;
+            if (listen) {
+                getViewTreeObserver().addOnScrollChangedListener(mScrollChangedListener);
+            } else {
+                getViewTreeObserver().removeOnScrollChangedListener(mScrollChangedListener);
+            }
+        }
+    }
+
+    /**
+     * Updates the scroll listener of this indicator and of every indicator rendering its dots
+     */
+    private void updateScrollListeners() {
+        updateScrollListener();
+        for (int i = 0; i < mMirrors.size(); ++i) {
+            mMirrors.get(i).updateScrollListener();
+        }
+    }
+
+    /**
+     * Throws if {@code mirror} can't render the dots of this indicator. Its dot radii must be
+     * proportional to ours, so that scaled dots never need a larger cell than its atlas has,
+     * and so must the distance between dot centers, which it would silently lose otherwise.
+     */
+    void checkMirror(@NonNull ScrollingPagerIndicator mirror) {
+        if (mirror == this || mirror.mSource != null || !mirror.mMirrors.isEmpty() || mSource != null) {
+            throw new IllegalArgumentException("Indicators can only be grouped once, and not with themselves");
+        }
+        float scale = mDotNormalRadius > 0 ? mirror.mDotNormalRadius / mDotNormalRadius : 1;
+        if (!isScaledRadius(mirror.mDotSelectedRadius, mDotSelectedRadius, scale)
+                || !isScaledRadius(mirror.mDotMediumRadius, mDotMediumRadius, scale)
+                || !isScaledRadius(mirror.mDotSmallRadius, mDotSmallRadius, scale)) {
+            throw new IllegalArgumentException("Grouped indicators need dot radii proportional to the driver's");
+        }
+        // Both distances are truncated to whole pixels
+        if (Math.abs(mirror.spaceBetweenDotCenters - spaceBetweenDotCenters * scale) > 1) {
+            throw new IllegalArgumentException("Grouped indicators need dot spacing proportional to the driver's");
+        }
+    }
+
+    private static boolean isScaledRadius(float mirrorRadius, float radius, float scale) {
+        return Math.abs(mirrorRadius - radius * scale) <= 0.01f * Math.max(1, mirrorRadius);
+    }
+
+    /**
+     * Makes {@code mirror} render the dots of this indicator instead of its own
+     */
+    void addMirror(@NonNull ScrollingPagerIndicator mirror) {
+        checkMirror(mirror);
+        Runnable attach = mirror.attachRunnable;
+        mirror.detachFromPager();
+        mirror.stopAutoAdvance();
+        mirror.endAnimation();
+        mirror.mAttachBeforeMirroring = attach;
+        mirror.mSource = this;
+        mMirrors.add(mirror);
+        mirror.updateScrollListener();
+        mirror.requestLayout();
+        mirror.invalidate();
+    }
+
+    /**
+     * Makes {@code mirror} render its own dots again, re-attaching it to its previous pager if any
+     */
+    void removeMirror(@NonNull ScrollingPagerIndicator mirror) {
+        if (mMirrors.remove(mirror)) {
+            mirror.mSource = null;
+            mirror.updateScrollListener();
+            Runnable attach = mirror.mAttachBeforeMirroring;
+            mirror.mAttachBeforeMirroring = null;
+            if (attach != null) {
+                attach.run();
+            }
+            mirror.requestLayout();
+            mirror.invalidate();
+        }
+    }
+
+    /**
+     * Mirrors draw the source geometry scaled by the ratio of normal dot radii,
+     * which {@link #checkMirror} made the ratio of every radius
+     */
+    private float getMirrorScale() {
+        return mSource.mDotNormalRadius > 0 ? mDotNormalRadius / mSource.mDotNormalRadius : 1;
+    }
+
+    /**
+     * Invalidates this indicator and every indicator rendering its dots
+     */
+    private void invalidateDots() {
         invalidate();
+        for (int i = 0; i < mMirrors.size(); ++i) {
+            mMirrors.get(i).invalidate();
+        }
+    }
+
+    /**
+     * @return whether this indicator or one of its mirrors is visible on screen
+     */
+    private boolean isDotWindowOnScreen() {
+        if (isOnScreen()) {
+            return true;
+        }
+        for (int i = 0; i < mMirrors.size(); ++i) {
+            if (mMirrors.get(i).isOnScreen()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isOnScreen() {
+        return mWindowAttached && isShown() && getGlobalVisibleRect(mVisibleRect);
+    }
+
+    private void releaseDotAtlas() {
+        if (mDotAtlas != null) {
+            mDotAtlas.release();
+            mDotAtlas = null;
+        }
     }
 
     private void updateDotType(DotHolder holder, DotType newType, boolean translateToLeft) {
         holder.type = newType;
         float newRadius = getRadiusForType(holder.type);
-        float newX = holder.centerX;
+        // Offset from the target window rather than the displayed position, so that swipes
+        // arriving mid-transition don't accumulate drift
+        float newX = mTimeline.getTargetX(holder.slot);
         if (translateToLeft) {
             newX -= spaceBetweenDotCenters;
         } else {
             newX += spaceBetweenDotCenters;
         }
-        holder.animate(newX, newRadius);
+        mTimeline.setTarget(holder.slot, newX, newRadius);
+    }
+
+    /**
+     * Animates every dot from where it is displayed now to its target
+     */
+    private void startTransition() {
+        if (mSpringEnabled) {
+            // Targets are already updated and velocities carry over, just keep stepping
+            if (!mSpringClock.isStarted()) {
+                mSpringClock.start();
+            }
+            return;
+        }
+        mTimeline.restart(mDotHolders.size());
+        mClock.cancel();
+        mClock.start();
     }
 
     private float getRadiusForType(DotType type) {
@@ -561,35 +1211,28 @@ public class ScrollingPagerIndicator extends View {
         }
     }
 
+    /**
+     * Dot state. Its geometry lives in the {@link DotTimeline} at index {@link #slot}, which
+     * stays fixed while the holder moves around in the list.
+     */
     public class DotHolder {
-        float centerX;
+        final int slot;
         float centerY;
-        float radius;
         DotType type;
-        ValueAnimator valueAnimator;
 
-        public DotHolder(float centerX, float centerY, float radius, DotType type) {
-            this.centerX = centerX;
+        public DotHolder(int slot, float centerX, float centerY, float radius, DotType type) {
+            this.slot = slot;
             this.centerY = centerY;
-            this.radius = radius;
             this.type = type;
+            mTimeline.snap(slot, centerX, radius);
         }
 
-        public void animate(float newCenterX, float newRadius) {
-            if (valueAnimator != null && valueAnimator.isRunning()) {
-                valueAnimator.pause();
-            }
+        float centerX() {
+            return mTimeline.getX(slot);
+        }
 
-            final float diffRadius = newRadius - radius;
-            final float startR = radius;
-            valueAnimator = ValueAnimator.ofFloat(centerX, newCenterX);
-            valueAnimator.setDuration(200);
-            valueAnimator.addUpdateListener(animation -> {
-                centerX = (float) animation.getAnimatedValue();
-                radius = startR + diffRadius * animation.getAnimatedFraction();
-                invalidate();
-            });
-            valueAnimator.start();
+        float radius() {
+            return mTimeline.getRadius(slot);
         }
     }
 
@@ -616,5 +1259,23 @@ public class ScrollingPagerIndicator extends View {
          * Here you should unregister all callbacks previously added to pager and adapter
          */
         void detachFromPager();
+
+        /**
+         * @return whether {@link #selectPage(int)} is implemented, which auto-advance requires
+         */
+        default boolean canSelectPages() {
+            return false;
+        }
+
+        /**
+         * Selects a page of the attached pager, used by auto-advance. Does nothing unless
+         * overridden together with {@link #canSelectPages()}.
+         * Attachers supporting auto-advance should also report drags through
+         * {@link ScrollingPagerIndicator#setUserInteracting(boolean)}.
+         *
+         * @param page page to select
+         */
+        default void selectPage(int page) {
+        }
     }
 }
@@ -42,7 +42,7 @@ public class ViewPagerAttacher implements ScrollingPagerIndicator.PagerAttacher<
 
         onPageChangeListener = new ViewPager.OnPageChangeListener() {
 
-            int mPosition = 0;
+            int mPosition = pager.getCurrentItem();
 
             @Override
             public void onPageScrolled(int position, float positionOffset, int positionOffsetPixel) {
@@ -56,6 +56,8 @@ public class ViewPagerAttacher implements ScrollingPagerIndicator.PagerAttacher<
 
             @Override
             public void onPageScrollStateChanged(int state) {
+                // Only drags are reported, a press that doesn't move the pager isn't
+                indicator.setUserInteracting(state == ViewPager.SCROLL_STATE_DRAGGING);
                 if (state == ViewPager.SCROLL_STATE_IDLE) {
                     indicator.onPageSettled(mPosition);
                 }
@@ -70,6 +72,16 @@ public class ViewPagerAttacher implements ScrollingPagerIndicator.PagerAttacher<
         pager.removeOnPageChangeListener(onPageChangeListener);
     }
 
+    @Override
+    public boolean canSelectPages() {
+        return true;
+    }
+
+    @Override
+    public void selectPage(int page) {
+        pager.setCurrentItem(page, true);
+    }
+
     private void updateIndicatorDotsAndPosition(ScrollingPagerIndicator indicator) {
         indicator.setDotCount(attachedAdapter.getCount());
         indicator.onPageSettled(pager.getCurrentItem());
@@ -0,0 +1,54 @@
+package com.example.instagramscrollingindicator;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.util.AttributeSet;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Indicator counting the work it does, summed over all instances. Used by {@link StressScenario},
+ * animator starts are counted by {@link ShadowCountingValueAnimator} instead.
+ */
+public class CountingPagerIndicator extends ScrollingPagerIndicator {
+
+    static int sDrawCount;
+    static int sInvalidateCount;
+    static int sLayoutRequestCount;
+
+    public CountingPagerIndicator(Context context) {
+        super(context);
+    }
+
+    public CountingPagerIndicator(Context context, @Nullable AttributeSet attrs) {
+        super(context, attrs);
+    }
+
+    public CountingPagerIndicator(Context context, @Nullable AttributeSet attrs, int defStyleAttr) {
+        super(context, attrs, defStyleAttr);
+    }
+
+    static void resetCounters() {
+        sDrawCount = 0;
+        sInvalidateCount = 0;
+        sLayoutRequestCount = 0;
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+        ++sDrawCount;
+        super.onDraw(canvas);
+    }
+
+    @Override
+    public void invalidate() {
+        ++sInvalidateCount;
+        super.invalidate();
+    }
+
+    @Override
+    public void requestLayout() {
+        ++sLayoutRequestCount;
+        super.requestLayout();
+    }
+}
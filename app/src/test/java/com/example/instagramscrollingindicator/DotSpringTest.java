@@ -0,0 +1,97 @@
+package com.example.instagramscrollingindicator;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class DotSpringTest {
+
+    private static final float FRAME = 1f / 60;
+    private static final int MAX_FRAMES = 600;
+
+    private DotTimeline timeline;
+
+    @Before
+    public void setUp() {
+        timeline = new DotTimeline(2);
+        timeline.snap(0, 0, 2);
+        timeline.snap(1, 10, 0);
+        timeline.setTarget(0, 100, 4);
+        timeline.setTarget(1, 110, 3);
+    }
+
+    @Test
+    public void retargetKeepsVelocity() {
+        for (int i = 0; i < 5; ++i) {
+            timeline.step(FRAME, 2);
+        }
+        float x = timeline.getX(0);
+        timeline.setTarget(0, 200, 4);
+        timeline.step(FRAME, 2);
+        float carriedDistance = timeline.getX(0) - x;
+
+        // Same position and target, starting from rest
+        DotTimeline fromRest = new DotTimeline(1);
+        fromRest.snap(0, x, timeline.getRadius(0));
+        fromRest.setTarget(0, 200, 4);
+        fromRest.step(FRAME, 1);
+        float restDistance = fromRest.getX(0) - x;
+
+        assertTrue(x > 0);
+        assertTrue(carriedDistance > restDistance);
+    }
+
+    @Test
+    public void settlesExactlyOnTargets() {
+        timeline.step(FRAME * 5, 2);
+        timeline.setTarget(0, 50, 4);
+        timeline.setTarget(1, 60, 3);
+
+        int frames = stepUntilSettled(timeline, 2);
+
+        assertTrue(frames < MAX_FRAMES);
+        assertEquals(50, timeline.getX(0), 0);
+        assertEquals(4, timeline.getRadius(0), 0);
+        assertEquals(60, timeline.getX(1), 0);
+        assertEquals(3, timeline.getRadius(1), 0);
+        assertEquals(1, timeline.getFraction(), 0);
+    }
+
+    @Test
+    public void sameFramesGiveSameMotion() {
+        DotTimeline other = new DotTimeline(2);
+        other.snap(0, 0, 2);
+        other.snap(1, 10, 0);
+        other.setTarget(0, 100, 4);
+        other.setTarget(1, 110, 3);
+
+        for (int i = 0; i < 10; ++i) {
+            float dt = i % 2 == 0 ? 0.016f : 0.017f;
+            timeline.step(dt, 2);
+            other.step(dt, 2);
+            assertEquals(timeline.getX(0), other.getX(0), 0);
+            assertEquals(timeline.getRadius(1), other.getRadius(1), 0);
+        }
+    }
+
+    @Test
+    public void stiffSpringStaysStable() {
+        timeline.setSpring(1e6f, 4);
+
+        int frames = stepUntilSettled(timeline, 2);
+
+        assertTrue(frames < MAX_FRAMES);
+        assertEquals(100, timeline.getX(0), 0);
+        assertEquals(110, timeline.getX(1), 0);
+    }
+
+    private static int stepUntilSettled(DotTimeline timeline, int count) {
+        int frames = 0;
+        while (frames < MAX_FRAMES && !timeline.step(FRAME, count)) {
+            ++frames;
+        }
+        return frames;
+    }
+}
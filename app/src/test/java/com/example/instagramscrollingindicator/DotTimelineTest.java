@@ -0,0 +1,117 @@
+package com.example.instagramscrollingindicator;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class DotTimelineTest {
+
+    private static final float EPSILON = 1e-4f;
+
+    private DotTimeline timeline;
+
+    @Before
+    public void setUp() {
+        timeline = new DotTimeline(3);
+        // Two dots sliding left by one spacing, one growing in
+        timeline.snap(0, 10, 4);
+        timeline.snap(1, 20, 3);
+        timeline.snap(2, 30, 0);
+        timeline.setTarget(0, 0, 2);
+        timeline.setTarget(1, 10, 4);
+        timeline.setTarget(2, 20, 3);
+        timeline.restart(3);
+    }
+
+    @Test
+    public void startsAtPreviousWindow() {
+        timeline.evaluate(0, 3);
+
+        assertGeometry(0, 10, 4);
+        assertGeometry(1, 20, 3);
+        assertGeometry(2, 30, 0);
+    }
+
+    @Test
+    public void easesHalfwayAtHalfTime() {
+        timeline.evaluate(0.5f, 3);
+
+        assertGeometry(0, 5, 3);
+        assertGeometry(1, 15, 3.5f);
+        assertGeometry(2, 25, 1.5f);
+    }
+
+    @Test
+    public void endsAtTargetWindow() {
+        timeline.evaluate(1, 3);
+
+        assertGeometry(0, 0, 2);
+        assertGeometry(1, 10, 4);
+        assertGeometry(2, 20, 3);
+        assertEquals(1, timeline.getFraction(), 0);
+    }
+
+    @Test
+    public void appliesInterpolator() {
+        timeline.setInterpolator(t -> t);
+        timeline.evaluate(0.25f, 3);
+
+        assertGeometry(0, 7.5f, 3.5f);
+    }
+
+    @Test
+    public void reverseRetracesForwardFrames() {
+        DotTimeline forward = new DotTimeline(3);
+        copyWindows(forward);
+        forward.evaluate(0.3f, 3);
+
+        timeline.evaluate(1, 3);
+        timeline.evaluate(0.7f, 3);
+        timeline.evaluate(0.3f, 3);
+
+        for (int slot = 0; slot < 3; ++slot) {
+            assertGeometry(slot, forward.getX(slot), forward.getRadius(slot));
+        }
+    }
+
+    @Test
+    public void seekIsIndependentOfPreviousFrames() {
+        timeline.evaluate(0.9f, 3);
+        timeline.evaluate(0.1f, 3);
+        timeline.evaluate(0.6f, 3);
+        float x = timeline.getX(1);
+        float radius = timeline.getRadius(1);
+
+        setUp();
+        timeline.evaluate(0.6f, 3);
+
+        assertGeometry(1, x, radius);
+        assertEquals(0.6f, timeline.getFraction(), 0);
+    }
+
+    @Test
+    public void restartStartsFromDisplayedGeometry() {
+        timeline.evaluate(0.5f, 3);
+        timeline.setTarget(0, -10, 0);
+        timeline.restart(3);
+        timeline.evaluate(0, 3);
+
+        assertGeometry(0, 5, 3);
+    }
+
+    private void copyWindows(DotTimeline other) {
+        other.snap(0, 10, 4);
+        other.snap(1, 20, 3);
+        other.snap(2, 30, 0);
+        other.setTarget(0, 0, 2);
+        other.setTarget(1, 10, 4);
+        other.setTarget(2, 20, 3);
+        other.restart(3);
+    }
+
+    private void assertGeometry(int slot, float x, float radius) {
+        assertEquals(x, timeline.getX(slot), EPSILON);
+        assertEquals(radius, timeline.getRadius(slot), EPSILON);
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.instagramscrollingindicator;
+
+import android.app.Activity;
+import android.view.ContextThemeWrapper;
+import android.widget.LinearLayout;
+
+import androidx.annotation.NonNull;
+import androidx.viewpager.widget.ViewPager;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.annotation.LooperMode;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+@LooperMode(LooperMode.Mode.PAUSED)
+@Config(sdk = 28)
+public class ScrollingPagerIndicatorTest {
+
+    private static final int PAGE_COUNT = 10;
+    private static final int MAX_FRAMES = 1000;
+
+    private Activity activity;
+    private ViewPager pager;
+    private ScrollingPagerIndicator indicator;
+
+    @Before
+    public void setUp() {
+        activity = Robolectric.buildActivity(MainActivity.class).setup().get();
+        LinearLayout content = new LinearLayout(activity);
+        content.setOrientation(LinearLayout.VERTICAL);
+        indicator = newIndicator();
+        content.addView(indicator);
+        pager = new ViewPager(activity);
+        pager.setAdapter(new DemoPagerAdapter(PAGE_COUNT));
+        content.addView(pager, new LinearLayout.LayoutParams(LinearLayout.LayoutParams.MATCH_PARENT,
+                activity.getResources().getDimensionPixelSize(R.dimen.pager_height)));
+        activity.setContentView(content);
+        ShadowLooper.idleMainLooper(16, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void autoAdvanceLoopsBackToFirstDot() {
+        indicator.attachToPager(pager);
+
+        loopOnce();
+
+        assertEquals(0, indicator.getSelectedDotIndex());
+    }
+
+    @Test
+    public void autoAdvanceLoopsBackWhenPageIsReportedLater() {
+        indicator.attachToPager(pager, new DeferredAttacher());
+
+        loopOnce();
+
+        assertEquals(0, indicator.getSelectedDotIndex());
+    }
+
+    @Test
+    public void jumpMatchesSteppingPageByPage() {
+        ScrollingPagerIndicator stepped = newIndicator();
+        stepped.setDotCount(30);
+        for (int page = 1; page <= 12; ++page) {
+            stepped.onPageSettled(page);
+        }
+
+        ScrollingPagerIndicator jumped = newIndicator();
+        jumped.setDotCount(30);
+        jumped.onPageSettled(12);
+
+        assertEquals(stepped.getSelectedDotIndex(), jumped.getSelectedDotIndex());
+    }
+
+    private ScrollingPagerIndicator newIndicator() {
+        return new ScrollingPagerIndicator(new ContextThemeWrapper(activity, R.style.ScrollingPagerIndicator));
+    }
+
+    /**
+     * Auto-advances through every page and back to the first one
+     */
+    private void loopOnce() {
+        indicator.startAutoAdvance(100, true);
+        boolean reachedLastPage = false;
+        for (int frame = 0; frame < MAX_FRAMES; ++frame) {
+            ShadowLooper.idleMainLooper(16, TimeUnit.MILLISECONDS);
+            if (pager.getCurrentItem() == PAGE_COUNT - 1) {
+                reachedLastPage = true;
+            } else if (reachedLastPage && pager.getCurrentItem() == 0) {
+                break;
+            }
+        }
+        indicator.stopAutoAdvance();
+
+        assertTrue(reachedLastPage);
+        assertEquals(0, pager.getCurrentItem());
+    }
+
+    /**
+     * Selects pages on a later message, like pagers that report page changes asynchronously
+     */
+    private static class DeferredAttacher implements ScrollingPagerIndicator.PagerAttacher<ViewPager> {
+
+        private final ViewPagerAttacher delegate = new ViewPagerAttacher();
+        private ViewPager pager;
+
+        @Override
+        public void attachToPager(@NonNull ScrollingPagerIndicator indicator, @NonNull ViewPager pager) {
+            this.pager = pager;
+            delegate.attachToPager(indicator, pager);
+        }
+
+        @Override
+        public void detachFromPager() {
+            delegate.detachFromPager();
+        }
+
+        @Override
+        public boolean canSelectPages() {
+            return true;
+        }
+
+        @Override
+        public void selectPage(int page) {
+            pager.post(() -> pager.setCurrentItem(page, true));
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.instagramscrollingindicator;
+
+import android.animation.ValueAnimator;
+
+import org.robolectric.annotation.Implementation;
+import org.robolectric.annotation.Implements;
+import org.robolectric.annotation.RealObject;
+import org.robolectric.shadow.api.Shadow;
+import org.robolectric.shadows.ShadowValueAnimator;
+import org.robolectric.util.ReflectionHelpers.ClassParameter;
+
+/**
+ * Counts every {@link ValueAnimator} start in the process, {@code TimeAnimator}s included,
+ * without any cooperation from the animated code. Install with
+ * {@code @Config(shadows = ShadowCountingValueAnimator.class)}.
+ */
+@Implements(value = ValueAnimator.class, inheritImplementationMethods = true)
+public class ShadowCountingValueAnimator extends ShadowValueAnimator {
+
+    static int sStartCount;
+
+    @RealObject
+    private ValueAnimator realAnimator;
+
+    /**
+     * Both {@link ValueAnimator#start()} and {@link ValueAnimator#reverse()} of a stopped
+     * animator go through this private method
+     */
+    @Implementation
+    protected void start(boolean playBackwards) {
+        ++sStartCount;
+        Shadow.directlyOn(realAnimator, ValueAnimator.class, "start",
+                ClassParameter.from(boolean.class, playBackwards));
+    }
+}
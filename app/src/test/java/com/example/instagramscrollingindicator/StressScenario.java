@@ -0,0 +1,277 @@
+package com.example.instagramscrollingindicator;
+
+import android.app.Activity;
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.view.ContextThemeWrapper;
+import android.view.Gravity;
+import android.view.ViewGroup;
+import android.widget.LinearLayout;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+import androidx.viewpager.widget.ViewPager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Scripted stress run over a feed of indicator/pager pairs.
+ *
+ * Each scripted second runs one phase: pager flings while the feed scrolls, page jumps,
+ * adapter count changes or full feed rebinds. The work done by the indicators is counted per
+ * second. Time only moves through {@link FrameClock}, so the same run can be replayed headless,
+ * e.g. under Robolectric with a paused looper.
+ *
+ * Without a window surface nothing draws on its own, so after every frame the feed is drawn
+ * into an offscreen canvas if anything in it was invalidated.
+ *
+ * Animator starts are only counted under Robolectric with {@link ShadowCountingValueAnimator}
+ * installed. It sees every animator, so indicator versions can be compared whatever they animate with.
+ */
+public class StressScenario {
+
+    public static final int FRAMES_PER_SECOND = 60;
+    /* A phase acts on the visible rows every ACTION_INTERVAL frames */
+    private static final int ACTION_INTERVAL = 6;
+
+    public enum Phase {
+        FLING, JUMP, SET_COUNT, REBIND
+    }
+
+    /**
+     * Advances the main looper and its frame callbacks
+     */
+    public interface FrameClock {
+        void advance(long millis);
+    }
+
+    private final int rowCount;
+    private final Random random;
+    private final int[] pageCounts;
+    private final int[] positions;
+
+    private RecyclerView feed;
+    private FeedAdapter feedAdapter;
+    private Canvas frameCanvas;
+
+    /**
+     * @param rowCount number of indicator/pager pairs in the feed
+     * @param seed     seed of the script, equal seeds replay the same run
+     */
+    public StressScenario(int rowCount, long seed) {
+        this.rowCount = rowCount;
+        this.random = new Random(seed);
+        this.pageCounts = new int[rowCount];
+        this.positions = new int[rowCount];
+        for (int i = 0; i < rowCount; ++i) {
+            pageCounts[i] = 2 + random.nextInt(30);
+        }
+    }
+
+    /**
+     * Replaces the activity content with the feed and plays the script
+     *
+     * @param secondsPerPhase scripted seconds spent in each phase
+     * @return work done by the indicators, per scripted second
+     */
+    @NonNull
+    public Report run(@NonNull Activity activity, @NonNull FrameClock clock, int secondsPerPhase) {
+        feed = new RecyclerView(activity);
+        feed.setLayoutManager(new LinearLayoutManager(activity));
+        feedAdapter = new FeedAdapter();
+        feed.setAdapter(feedAdapter);
+        activity.setContentView(feed);
+        clock.advance(1000 / FRAMES_PER_SECOND);
+
+        Report report = new Report();
+        int frame = 0;
+        for (Phase phase : Phase.values()) {
+            for (int second = 0; second < secondsPerPhase; ++second) {
+                CountingPagerIndicator.resetCounters();
+                ShadowCountingValueAnimator.sStartCount = 0;
+                for (int i = 0; i < FRAMES_PER_SECOND; ++i, ++frame) {
+                    if (i % ACTION_INTERVAL == 0) {
+                        act(phase, i / ACTION_INTERVAL);
+                    }
+                    // Alternate 16 and 17 ms so that a scripted second lasts exactly 1000 ms
+                    clock.advance((i + 1) * 1000L / FRAMES_PER_SECOND - i * 1000L / FRAMES_PER_SECOND);
+                    drawIfDirty();
+                }
+                report.add(phase);
+            }
+        }
+        return report;
+    }
+
+    private void act(Phase phase, int step) {
+        switch (phase) {
+            case FLING:
+                if (step == 0) {
+                    feed.fling(0, 6000);
+                }
+                for (int i = 0; i < feed.getChildCount(); ++i) {
+                    RowHolder row = (RowHolder) feed.getChildViewHolder(feed.getChildAt(i));
+                    int next = row.pager.getCurrentItem() + 1;
+                    row.pager.setCurrentItem(next < row.pagerAdapter.getCount() ? next : 0, true);
+                }
+                break;
+            case JUMP:
+                for (int i = 0; i < feed.getChildCount(); ++i) {
+                    RowHolder row = (RowHolder) feed.getChildViewHolder(feed.getChildAt(i));
+                    row.pager.setCurrentItem(random.nextInt(row.pagerAdapter.getCount()), false);
+                }
+                break;
+            case SET_COUNT:
+                for (int i = 0; i < feed.getChildCount(); ++i) {
+                    RowHolder row = (RowHolder) feed.getChildViewHolder(feed.getChildAt(i));
+                    int position = row.getAdapterPosition();
+                    if (position != RecyclerView.NO_POSITION) {
+                        pageCounts[position] = 2 + random.nextInt(30);
+                        row.pagerAdapter.setCount(pageCounts[position]);
+                    }
+                }
+                break;
+            case REBIND:
+                if (step % 2 == 0) {
+                    feed.scrollToPosition(random.nextInt(rowCount));
+                } else {
+                    feedAdapter.notifyDataSetChanged();
+                }
+                break;
+        }
+    }
+
+    private void drawIfDirty() {
+        if (feed.getWidth() <= 0 || feed.getHeight() <= 0 || !feed.isDirty()) {
+            return;
+        }
+        if (frameCanvas == null) {
+            frameCanvas = new Canvas(Bitmap.createBitmap(feed.getWidth(), feed.getHeight(), Bitmap.Config.ARGB_8888));
+        }
+        feed.draw(frameCanvas);
+    }
+
+    private class FeedAdapter extends RecyclerView.Adapter<RowHolder> {
+
+        @NonNull
+        @Override
+        public RowHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+            return new RowHolder(parent.getContext());
+        }
+
+        @Override
+        public void onBindViewHolder(@NonNull RowHolder holder, int position) {
+            holder.pagerAdapter.setCount(pageCounts[position]);
+            holder.pager.setCurrentItem(Math.min(positions[position], pageCounts[position] - 1), false);
+        }
+
+        @Override
+        public void onViewRecycled(@NonNull RowHolder holder) {
+            int position = holder.getAdapterPosition();
+            if (position != RecyclerView.NO_POSITION) {
+                positions[position] = holder.pager.getCurrentItem();
+            }
+        }
+
+        @Override
+        public int getItemCount() {
+            return rowCount;
+        }
+    }
+
+    private static class RowHolder extends RecyclerView.ViewHolder {
+        final ViewPager pager;
+        final DemoPagerAdapter pagerAdapter = new DemoPagerAdapter(2);
+
+        RowHolder(Context context) {
+            super(new LinearLayout(context));
+            LinearLayout row = (LinearLayout) itemView;
+            row.setOrientation(LinearLayout.VERTICAL);
+            row.setLayoutParams(new RecyclerView.LayoutParams(
+                    ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.WRAP_CONTENT));
+
+            // Indicator attributes come from the theme when there is no XML
+            ScrollingPagerIndicator indicator = new CountingPagerIndicator(
+                    new ContextThemeWrapper(context, R.style.ScrollingPagerIndicator));
+            LinearLayout.LayoutParams indicatorParams = new LinearLayout.LayoutParams(
+                    ViewGroup.LayoutParams.WRAP_CONTENT, ViewGroup.LayoutParams.WRAP_CONTENT);
+            indicatorParams.gravity = Gravity.CENTER_HORIZONTAL;
+            row.addView(indicator, indicatorParams);
+
+            pager = new ViewPager(context);
+            row.addView(pager, new LinearLayout.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT,
+                    context.getResources().getDimensionPixelSize(R.dimen.pager_height)));
+
+            pager.setAdapter(pagerAdapter);
+            indicator.attachToPager(pager);
+        }
+    }
+
+    /**
+     * Indicator work per scripted second
+     */
+    public static class Report {
+        private final List<Phase> phases = new ArrayList<>();
+        private final List<int[]> seconds = new ArrayList<>();
+
+        void add(Phase phase) {
+            phases.add(phase);
+            seconds.add(new int[]{
+                    CountingPagerIndicator.sDrawCount,
+                    CountingPagerIndicator.sInvalidateCount,
+                    ShadowCountingValueAnimator.sStartCount,
+                    CountingPagerIndicator.sLayoutRequestCount
+            });
+        }
+
+        public int getSecondCount() {
+            return seconds.size();
+        }
+
+        public int getTotalDraws() {
+            return total(0);
+        }
+
+        public int getTotalInvalidations() {
+            return total(1);
+        }
+
+        public int getTotalAnimatorStarts() {
+            return total(2);
+        }
+
+        public int getTotalLayoutRequests() {
+            return total(3);
+        }
+
+        private int total(int column) {
+            int sum = 0;
+            for (int[] second : seconds) {
+                sum += second[column];
+            }
+            return sum;
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder();
+            builder.append(String.format(Locale.US, "%4s %-10s %8s %8s %8s %8s%n",
+                    "sec", "phase", "onDraw", "invalid", "anim", "layout"));
+            for (int i = 0; i < seconds.size(); ++i) {
+                int[] second = seconds.get(i);
+                builder.append(String.format(Locale.US, "%4d %-10s %8d %8d %8d %8d%n",
+                        i, phases.get(i), second[0], second[1], second[2], second[3]));
+            }
+            builder.append(String.format(Locale.US, "%4s %-10s %8d %8d %8d %8d%n",
+                    "", "total", getTotalDraws(), getTotalInvalidations(),
+                    getTotalAnimatorStarts(), getTotalLayoutRequests()));
+            return builder.toString();
+        }
+    }
+}
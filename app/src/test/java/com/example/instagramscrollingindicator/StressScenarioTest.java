@@ -0,0 +1,53 @@
+package com.example.instagramscrollingindicator;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.android.controller.ActivityController;
+import org.robolectric.annotation.Config;
+import org.robolectric.annotation.LooperMode;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Runs {@link StressScenario} headless and prints its report.
+ * Run with {@code ./gradlew testDebugUnitTest --tests '*StressScenarioTest'}.
+ */
+@RunWith(RobolectricTestRunner.class)
+@LooperMode(LooperMode.Mode.PAUSED)
+@Config(sdk = 28, shadows = ShadowCountingValueAnimator.class)
+public class StressScenarioTest {
+
+    @Test
+    public void feedOfIndicators() {
+        StressScenario.Report report = runScenario(42);
+        System.out.println(report);
+
+        assertEquals(2 * StressScenario.Phase.values().length, report.getSecondCount());
+        assertTrue(report.getTotalDraws() > 0);
+        assertTrue(report.getTotalAnimatorStarts() > 0);
+    }
+
+    @Test
+    public void sameSeedReplaysSameReport() {
+        String first = runScenario(7).toString();
+        String second = runScenario(7).toString();
+
+        assertEquals(first, second);
+    }
+
+    private static StressScenario.Report runScenario(long seed) {
+        ActivityController<MainActivity> controller = Robolectric.buildActivity(MainActivity.class).setup();
+        StressScenario.Report report = new StressScenario(300, seed).run(controller.get(),
+                millis -> ShadowLooper.idleMainLooper(millis, TimeUnit.MILLISECONDS), 2);
+        controller.pause().stop().destroy();
+        // Let detached rows finish whatever they posted before the next run starts counting
+        ShadowLooper.idleMainLooper();
+        return report;
+    }
+}